@@ -0,0 +1,70 @@
+/**
+ * Redistribution and use in source and binary forms, with or without modification, are permitted.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE AUTHORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR ONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.tanjakostic.jcleancim;
+
+import java.util.Properties;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tanjakostic.jcleancim.builder.ea.db.DbModelBuilder;
+import org.tanjakostic.jcleancim.common.Config;
+import org.tanjakostic.jcleancim.model.UmlModel;
+import org.tanjakostic.jcleancim.util.ApplicationException;
+
+/**
+ * Model built once per trial from {@value #MODEL_FILENAME} with the db builder, shared by the
+ * benchmarks that need a model as input. Model file is looked up on the classpath (test/input).
+ *
+ * @author tviegut@ucaiug.org
+ * @version $Id: BaseSmallModelState.java 21 2026-10-16 15:44:50Z dev978 $
+ */
+@State(Scope.Benchmark)
+public class BaseSmallModelState {
+
+	public static final String MODEL_FILENAME = "base-small.eap";
+
+	private Config _cfg;
+	private UmlModel _model;
+
+	/**
+	 * Returns configuration for {@value #MODEL_FILENAME}, with the XML document generation enabled
+	 * if <code>docgenOn</code> (so that diagrams get drawn as well).
+	 */
+	public static Config createConfig(boolean docgenOn) throws ApplicationException {
+		Properties props = new Properties();
+		props.put(Config.KEY_APP_SKIP_TIMING, "true");
+		if (docgenOn) {
+			props.put(Config.KEY_DOCGEN_ON, "true");
+			props.put(Config.KEY_DOCGEN_XML_OUT_SPEC, "base-small-bench-spec.xml");
+			props.put(Config.KEY_DOCGEN_XML_OUT_DOC, "base-small-bench-doc.xml");
+		}
+		return new Config(props, MODEL_FILENAME);
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws ApplicationException {
+		_cfg = createConfig(true);
+		_model = new DbModelBuilder(_cfg).build();
+	}
+
+	public Config getCfg() {
+		return _cfg;
+	}
+
+	public UmlModel getModel() {
+		return _model;
+	}
+}
@@ -0,0 +1,82 @@
+/**
+ * Redistribution and use in source and binary forms, with or without modification, are permitted.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE AUTHORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR ONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.tanjakostic.jcleancim;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Properties;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tanjakostic.jcleancim.builder.ea.SyntheticQeaGenerator;
+import org.tanjakostic.jcleancim.builder.ea.db.DbModelBuilder;
+import org.tanjakostic.jcleancim.common.Config;
+import org.tanjakostic.jcleancim.model.UmlModel;
+import org.tanjakostic.jcleancim.util.ApplicationException;
+
+/**
+ * Model generated once per trial with {@link SyntheticQeaGenerator} at the given scale (1, 10 and
+ * 100 times the default size), and built with the db builder; for benchmarks that need to show how
+ * processing time grows with the size of the model.
+ *
+ * @author tviegut@ucaiug.org
+ * @version $Id: SyntheticModelState.java 21 2026-10-16 15:44:50Z dev978 $
+ */
+@State(Scope.Benchmark)
+public class SyntheticModelState {
+
+	@Param({ "1", "10", "100" })
+	public int scale;
+
+	private File _qeaFile;
+	private Config _cfg;
+	private UmlModel _model;
+
+	@Setup(Level.Trial)
+	public void setUp() throws ApplicationException, IOException {
+		_qeaFile = File.createTempFile("synthetic-" + scale + "-", ".qea");
+		SyntheticQeaGenerator generator = new SyntheticQeaGenerator();
+		generator.setScale(scale);
+		generator.generate(_qeaFile);
+
+		Properties props = new Properties();
+		props.put(Config.KEY_APP_SKIP_TIMING, "true");
+		props.put(Config.KEY_MODEL_NATURE_IEC61850, SyntheticQeaGenerator.IEC61850_TOP);
+		final String modelFileAbsPath = _qeaFile.getAbsolutePath();
+		_cfg = new Config(props, null) {
+			@Override
+			public String getModelFileAbsPath() {
+				return modelFileAbsPath;
+			}
+		};
+		_model = new DbModelBuilder(_cfg).build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		_qeaFile.delete();
+	}
+
+	public Config getCfg() {
+		return _cfg;
+	}
+
+	public UmlModel getModel() {
+		return _model;
+	}
+}
@@ -0,0 +1,54 @@
+/**
+ * Redistribution and use in source and binary forms, with or without modification, are permitted.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE AUTHORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR ONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.tanjakostic.jcleancim.builder.ea.db;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tanjakostic.jcleancim.BaseSmallModelState;
+import org.tanjakostic.jcleancim.common.Config;
+import org.tanjakostic.jcleancim.model.UmlModel;
+import org.tanjakostic.jcleancim.util.ApplicationException;
+
+/**
+ * End-to-end build of the model from {@value BaseSmallModelState#MODEL_FILENAME}, from opening the
+ * file to the in-memory model, without document generation (so without diagrams).
+ *
+ * @author tviegut@ucaiug.org
+ * @version $Id: DbModelBuilderBenchmark.java 21 2026-10-16 15:44:50Z dev978 $
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DbModelBuilderBenchmark {
+
+	private Config _cfg;
+
+	@Setup(Level.Trial)
+	public void setUp() throws ApplicationException {
+		_cfg = BaseSmallModelState.createConfig(false);
+	}
+
+	@Benchmark
+	public UmlModel build() throws ApplicationException {
+		return new DbModelBuilder(_cfg).build();
+	}
+}
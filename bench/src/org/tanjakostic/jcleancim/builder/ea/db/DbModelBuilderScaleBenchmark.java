@@ -0,0 +1,40 @@
+/**
+ * Redistribution and use in source and binary forms, with or without modification, are permitted.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE AUTHORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR ONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.tanjakostic.jcleancim.builder.ea.db;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.tanjakostic.jcleancim.SyntheticModelState;
+import org.tanjakostic.jcleancim.model.UmlModel;
+import org.tanjakostic.jcleancim.util.ApplicationException;
+
+/**
+ * End-to-end build of synthetic models of growing size, without document generation.
+ *
+ * @author tviegut@ucaiug.org
+ * @version $Id: DbModelBuilderScaleBenchmark.java 21 2026-10-16 15:44:50Z dev978 $
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DbModelBuilderScaleBenchmark {
+
+	@Benchmark
+	public UmlModel build(SyntheticModelState state) throws ApplicationException {
+		return new DbModelBuilder(state.getCfg()).build();
+	}
+}
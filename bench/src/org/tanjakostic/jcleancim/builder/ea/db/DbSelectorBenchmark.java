@@ -0,0 +1,82 @@
+/**
+ * Redistribution and use in source and binary forms, with or without modification, are permitted.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE AUTHORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR ONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.tanjakostic.jcleancim.builder.ea.db;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tanjakostic.jcleancim.BaseSmallModelState;
+import org.tanjakostic.jcleancim.builder.ea.EA;
+import org.tanjakostic.jcleancim.util.ApplicationException;
+
+/**
+ * Reading of the biggest EA tables from {@value BaseSmallModelState#MODEL_FILENAME}, through
+ * {@link DbSelector} on an already open repository.
+ *
+ * @author tviegut@ucaiug.org
+ * @version $Id: DbSelectorBenchmark.java 21 2026-10-16 15:44:50Z dev978 $
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DbSelectorBenchmark {
+
+	private static final String[] OBJECT_COLUMNS = new String[] { EA.ELEM_ID, EA.PACKAGE_ID,
+			EA.EA_GUID, EA.ELEM_NAME, EA.ELEM_ALIAS, EA.ELEM_NOTE, EA.ELEM_TYPE, EA.ELEM_POS };
+	private static final String[] ATTRIBUTE_COLUMNS = new String[] { EA.ELEM_ID, EA.ATTR_ID,
+			EA.EA_GUID, EA.ATTR_NAME, EA.ATTR_NOTE, EA.ATTR_POSITION, EA.ATTR_TYPE,
+			EA.ATTR_CLASSIF };
+
+	private DbRepo _repo;
+	private DbSelector _selector;
+
+	@Setup(Level.Trial)
+	public void setUp() throws ApplicationException {
+		_repo = openRepo();
+		_selector = new DbSelector(_repo);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws ApplicationException {
+		_repo.close();
+	}
+
+	/** Returns open repository for {@value BaseSmallModelState#MODEL_FILENAME}. */
+	static DbRepo openRepo() throws ApplicationException {
+		DbRepo repo = DbRepo.create(BaseSmallModelState.createConfig(false)
+				.getModelFileAbsPath());
+		repo.open();
+		return repo;
+	}
+
+	@Benchmark
+	public List<Map<String, String>> selectObjects() throws ApplicationException {
+		return _selector.select("t_object", OBJECT_COLUMNS, true);
+	}
+
+	@Benchmark
+	public List<Map<String, String>> selectAttributes() throws ApplicationException {
+		return _selector.select("t_attribute", ATTRIBUTE_COLUMNS, true);
+	}
+}
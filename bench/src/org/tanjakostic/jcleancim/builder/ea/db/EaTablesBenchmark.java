@@ -0,0 +1,102 @@
+/**
+ * Redistribution and use in source and binary forms, with or without modification, are permitted.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE AUTHORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR ONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.tanjakostic.jcleancim.builder.ea.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tanjakostic.jcleancim.builder.ea.EA;
+import org.tanjakostic.jcleancim.builder.ea.EaTables;
+import org.tanjakostic.jcleancim.util.ApplicationException;
+import org.tanjakostic.jcleancim.util.Util;
+
+/**
+ * Bulk loading of {@link EaTables} from base-small.eap, and the lookups that builders do per
+ * package and per element.
+ *
+ * @author tviegut@ucaiug.org
+ * @version $Id: EaTablesBenchmark.java 21 2026-10-16 15:44:50Z dev978 $
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EaTablesBenchmark {
+
+	private DbRepo _repo;
+	private DbSelector _selector;
+	private EaTables _tables;
+	private final List<Integer> _packageIds = new ArrayList<Integer>();
+	private final List<Integer> _objectIds = new ArrayList<Integer>();
+
+	@Setup(Level.Trial)
+	public void setUp() throws ApplicationException {
+		_repo = DbSelectorBenchmark.openRepo();
+		_selector = new DbSelector(_repo);
+		_tables = new EaTables(_selector, true);
+
+		for (Map<String, String> row : _selector.select("t_package",
+				new String[] { EA.PACKAGE_ID }, true)) {
+			_packageIds.add(Util.parseInt(row.get(EA.PACKAGE_ID)));
+		}
+		for (Map<String, String> row : _selector.select("t_object", new String[] { EA.ELEM_ID },
+				true)) {
+			_objectIds.add(Util.parseInt(row.get(EA.ELEM_ID)));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws ApplicationException {
+		_repo.close();
+	}
+
+	@Benchmark
+	public EaTables createTables() throws ApplicationException {
+		return new EaTables(_selector, true);
+	}
+
+	@Benchmark
+	public void findPerPackage(Blackhole bh) {
+		for (Integer id : _packageIds) {
+			bh.consume(_tables.findPackageSubpackages(id, ""));
+			bh.consume(_tables.findPackageClasses(id, ""));
+			bh.consume(_tables.findPackageDiagrams(id, ""));
+			bh.consume(_tables.findPackageEmbeddedElements(id));
+		}
+	}
+
+	@Benchmark
+	public void findPerObject(Blackhole bh) {
+		for (Integer id : _objectIds) {
+			bh.consume(_tables.findObject(id));
+			bh.consume(_tables.findAttributes(id));
+			bh.consume(_tables.findOperations(id));
+			bh.consume(_tables.findConnectors(id));
+			bh.consume(_tables.findObjectTaggedValues(id));
+			bh.consume(_tables.findObjectConstraints(id));
+			bh.consume(_tables.findClassEmbeddedElements(id));
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/**
+ * Redistribution and use in source and binary forms, with or without modification, are permitted.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE AUTHORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR ONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.tanjakostic.jcleancim.docgen.writer.xml;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tanjakostic.jcleancim.BaseSmallModelState;
+import org.tanjakostic.jcleancim.docgen.collector.FixedFormDocumentation;
+import org.tanjakostic.jcleancim.docgen.collector.impl.DocCollectorImpl;
+
+/**
+ * Writing (and validating) of the XML specification and documentation files from documentation
+ * collected once per trial.
+ *
+ * @author tviegut@ucaiug.org
+ * @version $Id: WAXWriterBenchmark.java 21 2026-10-16 15:44:50Z dev978 $
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WAXWriterBenchmark {
+
+	private FixedFormDocumentation _fixedFormDocumentation;
+
+	@Setup(Level.Trial)
+	public void setUp(BaseSmallModelState state) {
+		DocCollectorImpl collector = new DocCollectorImpl(state.getModel());
+		collector.collect(state.getModel());
+		_fixedFormDocumentation = collector.getFixedFormDocumentation();
+	}
+
+	@Benchmark
+	public WAXWriter write(BaseSmallModelState state) throws IOException {
+		WAXWriter writer = new WAXWriter(new WAXWriterInput(state.getCfg(),
+				_fixedFormDocumentation));
+		writer.write();
+		return writer;
+	}
+}
@@ -0,0 +1,98 @@
+/**
+ * Redistribution and use in source and binary forms, with or without modification, are permitted.
+ * <p>
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHORS "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ * INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE AUTHORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR ONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.tanjakostic.jcleancim.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tanjakostic.jcleancim.util.Util;
+
+/**
+ * Decomposition of IEC61850-like data object names into abbreviated terms, with the matcher
+ * prebuilt once (as the model does) and with the matcher built per name.
+ *
+ * @author tviegut@ucaiug.org
+ * @version $Id: NameDecompositionBenchmark.java 21 2026-10-16 15:44:50Z dev978 $
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameDecompositionBenchmark {
+
+	private static final String[] TERMS = new String[] { "A", "Abr", "Acc", "Act", "Alm", "Amp",
+			"Ang", "Auto", "Aux", "Blk", "Ch", "Chg", "Chr", "Cls", "Cnt", "Ctl", "Dir", "Ds",
+			"En", "Ev", "Ext", "Flt", "Gen", "Ha", "Hz", "In", "Ind", "Loc", "Max", "Min", "Mod",
+			"Num", "Op", "Out", "Ph", "PhsA", "PhsB", "PhsC", "Pos", "Pwr", "Rec", "Rs", "Rte",
+			"Set", "Spd", "St", "Str", "Sw", "Tm", "Tmp", "Tr", "V", "Var", "Vol", "W", "Wh" };
+	private static final int NAME_COUNT = 1000;
+
+	private Map<String, String> _sortedAbbrTerms;
+	private AbbreviatedTermsMatcher _matcher;
+	private final List<String> _names = new ArrayList<String>();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Map<String, String> terms = new HashMap<String, String>();
+		for (String term : TERMS) {
+			terms.put(term, "Description of " + term);
+		}
+		_sortedAbbrTerms = Util.sortByDecreasingLength(terms);
+		_matcher = new AbbreviatedTermsMatcher(_sortedAbbrTerms);
+
+		// fixed seed, so that every run decomposes the same names; every 10th name has an
+		// unknown part, and some end with a number:
+		Random random = new Random(61850);
+		for (int i = 0; i < NAME_COUNT; ++i) {
+			StringBuilder name = new StringBuilder();
+			int termCount = 1 + random.nextInt(4);
+			for (int j = 0; j < termCount; ++j) {
+				name.append(TERMS[random.nextInt(TERMS.length)]);
+			}
+			if (i % 10 == 0) {
+				name.append("Xyz");
+			}
+			if (i % 7 == 0) {
+				name.append(random.nextInt(10));
+			}
+			_names.add(name.toString());
+		}
+	}
+
+	@Benchmark
+	public void decomposeWithPrebuiltMatcher(Blackhole bh) {
+		for (String name : _names) {
+			bh.consume(NameDecomposition.create(name, _matcher));
+		}
+	}
+
+	@Benchmark
+	public void decomposeWithMatcherPerName(Blackhole bh) {
+		for (String name : _names) {
+			bh.consume(new NameDecomposition(name, _sortedAbbrTerms));
+		}
+	}
+}